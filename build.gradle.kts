@@ -40,6 +40,9 @@ java {
     targetCompatibility = JavaVersion.VERSION_17
 }
 
+// RowMapper 생성용 어노테이션 프로세서 (src/processor)
+val processor: SourceSet by sourceSets.creating
+
 dependencies {
     // Vert.x Core
     implementation(platform("io.vertx:vertx-stack-depchain:$vertxVersion"))
@@ -84,6 +87,8 @@ dependencies {
     // Jackson
     implementation("com.fasterxml.jackson.core:jackson-databind:$jacksonVersion")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:$jacksonVersion")
+    implementation("com.fasterxml.jackson.module:jackson-module-blackbird:$jacksonVersion")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor:$jacksonVersion")
     
     // BCrypt
     implementation("org.mindrot:jbcrypt:$jbcryptVersion")
@@ -94,6 +99,10 @@ dependencies {
     testCompileOnly("org.projectlombok:lombok:$lombokVersion")
     testAnnotationProcessor("org.projectlombok:lombok:$lombokVersion")
     
+    // RowMapper 생성 (Lombok 이후 실행)
+    compileOnly(processor.output)
+    annotationProcessor(processor.output)
+    
     // Test
     testImplementation("io.vertx:vertx-junit5")
     testImplementation("org.junit.jupiter:junit-jupiter:$junitVersion")